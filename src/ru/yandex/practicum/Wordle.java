@@ -3,11 +3,13 @@ package ru.yandex.practicum;
 import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.util.Scanner;
+import java.util.concurrent.TimeUnit;
 
 public class Wordle {
 
     public static void main(String[] args) {
         PrintWriter logWriter = null;
+        WordleDictionaryRegistry registry = null;
 
         try {
             // Создаем лог-файл
@@ -17,12 +19,36 @@ public class Wordle {
             logWriter.println("Запуск игры Wordle");
 
             // Загружаем словарь
-            WordleDictionaryLoader loader = new WordleDictionaryLoader();
-            WordleDictionary dictionary = loader.loadDictionary("russian_nouns.txt");
-            logWriter.println("Словарь загружен, слов: " + dictionary.getWords().size());
+            registry = new WordleDictionaryRegistry("russian_nouns.txt");
+            WordleDictionaryRegistry.Snapshot snapshot = registry.current();
+            logWriter.println("Словарь загружен, версия: " + snapshot.getVersion()
+                    + ", слов: " + snapshot.getDictionary().getWords().size()
+                    + ", время загрузки: " + snapshot.getLoadMillis() + " мс");
+
+            WordleStatistics statistics = new WordleStatistics(snapshot.getDictionary());
+
+            // Следим за файлом словаря и подхватываем изменения без перезапуска
+            PrintWriter reloadLog = logWriter;
+            WordleDictionaryRegistry reloadRegistry = registry;
+            registry.addReloadListener(new WordleDictionaryRegistry.ReloadListener() {
+                @Override
+                public void onReload(WordleDictionaryRegistry.Snapshot next) {
+                    statistics.switchDictionary(next.getDictionary());
+                    reloadLog.println("Словарь перезагружен, версия: " + next.getVersion()
+                            + ", слов: " + next.getDictionary().getWords().size()
+                            + ", время загрузки: " + next.getLoadMillis() + " мс"
+                            + ", среднее время перезагрузки: " + reloadRegistry.getAverageReloadMillis() + " мс");
+                }
+
+                @Override
+                public void onReloadFailed(Exception e, long elapsedMillis) {
+                    reloadLog.println("Ошибка перезагрузки словаря за " + elapsedMillis + " мс: " + e.getMessage());
+                }
+            });
+            registry.startWatching(5, TimeUnit.SECONDS);
 
-            // Создаем игру
-            WordleGame game = new WordleGame(dictionary);
+            // Игра и статистика начинают с одной и той же версии словаря
+            WordleGame game = registry.newGame(snapshot);
             logWriter.println("Загадано слово: " + game.getAnswer());
 
             // Игровой цикл
@@ -77,6 +103,13 @@ public class Wordle {
                 logWriter.println("Пользователь проиграл, загаданное слово: " + game.getAnswer());
             }
 
+            if (game.isGameOver()) {
+                statistics.recordGame(game);
+                WordleStatistics.Snapshot stats = statistics.snapshot();
+                logWriter.println("Статистика: игр " + stats.getGamesPlayed() + ", побед " + stats.getGamesWon()
+                        + ", подсказок " + stats.getHintsUsed());
+            }
+
             scanner.close();
 
         } catch (Exception e) {
@@ -89,6 +122,9 @@ public class Wordle {
                 e.printStackTrace();
             }
         } finally {
+            if (registry != null) {
+                registry.close();
+            }
             if (logWriter != null) {
                 logWriter.close();
             }
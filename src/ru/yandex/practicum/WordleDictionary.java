@@ -4,6 +4,7 @@ import java.util.*;
 
 public class WordleDictionary {
     private final List<String> words;
+    private final Map<String, Integer> wordIndex;
     private final Random random = new Random();
 
     public WordleDictionary(List<String> words) {
@@ -15,6 +16,11 @@ public class WordleDictionary {
                 this.words.add(normalized);
             }
         }
+        // Индекс строится один раз при создании, поэтому словарь после этого только читается
+        this.wordIndex = new HashMap<>();
+        for (int i = 0; i < this.words.size(); i++) {
+            this.wordIndex.putIfAbsent(this.words.get(i), i);
+        }
     }
 
     public List<String> getWords() {
@@ -30,7 +36,16 @@ public class WordleDictionary {
 
     public boolean contains(String word) {
         String normalized = normalizeWord(word);
-        return words.contains(normalized);
+        return wordIndex.containsKey(normalized);
+    }
+
+    public int indexOf(String word) {
+        Integer index = wordIndex.get(normalizeWord(word));
+        return index != null ? index : -1;
+    }
+
+    public int size() {
+        return words.size();
     }
 
     public List<String> findPossibleWords(Set<Character> correctLetters,
@@ -0,0 +1,232 @@
+package ru.yandex.practicum;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class WordleDictionaryRegistry implements AutoCloseable {
+    private final String filename;
+    private final WordleDictionaryLoader loader;
+    private final AtomicReference<Snapshot> current = new AtomicReference<>();
+    private final List<ReloadListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Один поток и для перезагрузок, и для проверки файла: перезагрузки не пересекаются
+    private final ScheduledExecutorService reloadExecutor;
+
+    // Метрики перезагрузки
+    private final AtomicLong reloadCount = new AtomicLong();
+    private final AtomicLong failedReloadCount = new AtomicLong();
+    private final AtomicLong failedListenerCount = new AtomicLong();
+    // Время успешных и неудачных перезагрузок считается отдельно, чтобы среднее по успешным было верным
+    private final AtomicLong lastReloadNanos = new AtomicLong();
+    private final AtomicLong totalReloadNanos = new AtomicLong();
+    private final AtomicLong totalFailedReloadNanos = new AtomicLong();
+
+    public WordleDictionaryRegistry(String filename) throws IOException {
+        this(filename, new WordleDictionaryLoader());
+    }
+
+    public WordleDictionaryRegistry(String filename, WordleDictionaryLoader loader) throws IOException {
+        this.filename = filename;
+        this.loader = loader;
+
+        // Первая версия загружается синхронно: без словаря игру не начать
+        File file = new File(filename);
+        long lastModified = file.lastModified();
+        long size = file.length();
+        long start = System.nanoTime();
+        WordleDictionary dictionary = loader.loadDictionary(filename);
+        current.set(new Snapshot(1, dictionary, lastModified, size,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+
+        this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wordle-dictionary-reload");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public Snapshot current() {
+        return current.get();
+    }
+
+    public WordleDictionary getDictionary() {
+        return current.get().getDictionary();
+    }
+
+    public WordleGame newGame() {
+        return newGame(current.get());
+    }
+
+    public WordleGame newGame(Snapshot snapshot) {
+        // Игра держит ссылку на словарь своей версии, поэтому перезагрузка на неё не влияет,
+        // а старая версия освобождается сборщиком мусора после завершения последней игры
+        return new WordleGame(snapshot.getDictionary());
+    }
+
+    public void addReloadListener(ReloadListener listener) {
+        listeners.add(listener);
+    }
+
+    public void startWatching(long period, TimeUnit unit) {
+        reloadExecutor.scheduleWithFixedDelay(() -> {
+            try {
+                reloadIfModified();
+            } catch (CompletionException e) {
+                // Ошибка загрузки уже учтена в метриках и передана слушателям,
+                // а исключение из периодической задачи отменило бы все следующие проверки
+            }
+        }, period, period, unit);
+    }
+
+    public CompletableFuture<Snapshot> reloadAsync() {
+        return CompletableFuture.supplyAsync(this::reload, reloadExecutor);
+    }
+
+    public CompletableFuture<Snapshot> reloadIfModifiedAsync() {
+        return CompletableFuture.supplyAsync(this::reloadIfModified, reloadExecutor);
+    }
+
+    private Snapshot reloadIfModified() {
+        Snapshot snapshot = current.get();
+        File file = new File(filename);
+        // Размер сравнивается вместе со временем: перезапись в пределах точности отметки времени её не меняет
+        if (file.lastModified() == snapshot.getSourceLastModified() && file.length() == snapshot.getSourceSize()) {
+            return snapshot;
+        }
+        return reload();
+    }
+
+    private Snapshot reload() {
+        long start = System.nanoTime();
+        Snapshot next;
+        try {
+            // Параметры файла снимаются до чтения: если файл дописывается во время загрузки,
+            // следующая проверка увидит изменение и загрузит его заново
+            File file = new File(filename);
+            long lastModified = file.lastModified();
+            long size = file.length();
+            WordleDictionary dictionary = loader.loadDictionary(filename);
+
+            long elapsed = System.nanoTime() - start;
+            lastReloadNanos.set(elapsed);
+            totalReloadNanos.addAndGet(elapsed);
+
+            // Перезагрузки выполняются в одном потоке, поэтому версии монотонно растут
+            Snapshot previous = current.get();
+            next = new Snapshot(previous.getVersion() + 1, dictionary, lastModified, size,
+                    TimeUnit.NANOSECONDS.toMillis(elapsed));
+            current.set(next);
+            reloadCount.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            // При ошибке остаётся предыдущая версия словаря
+            long elapsed = System.nanoTime() - start;
+            totalFailedReloadNanos.addAndGet(elapsed);
+            failedReloadCount.incrementAndGet();
+
+            for (ReloadListener listener : listeners) {
+                try {
+                    listener.onReloadFailed(e, TimeUnit.NANOSECONDS.toMillis(elapsed));
+                } catch (RuntimeException listenerError) {
+                    failedListenerCount.incrementAndGet();
+                }
+            }
+            throw new CompletionException(e);
+        }
+
+        // Новая версия уже опубликована, поэтому ошибка слушателя не делает перезагрузку неудачной
+        for (ReloadListener listener : listeners) {
+            try {
+                listener.onReload(next);
+            } catch (RuntimeException e) {
+                failedListenerCount.incrementAndGet();
+            }
+        }
+        return next;
+    }
+
+    public long getReloadCount() {
+        return reloadCount.get();
+    }
+
+    public long getFailedReloadCount() {
+        return failedReloadCount.get();
+    }
+
+    public long getFailedListenerCount() {
+        return failedListenerCount.get();
+    }
+
+    public long getLastReloadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(lastReloadNanos.get());
+    }
+
+    public long getTotalReloadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalReloadNanos.get());
+    }
+
+    public long getAverageReloadMillis() {
+        long count = reloadCount.get();
+        return count == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(totalReloadNanos.get() / count);
+    }
+
+    public long getTotalFailedReloadMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(totalFailedReloadNanos.get());
+    }
+
+    @Override
+    public void close() {
+        reloadExecutor.shutdownNow();
+    }
+
+    public interface ReloadListener {
+        void onReload(Snapshot snapshot);
+
+        void onReloadFailed(Exception e, long elapsedMillis);
+    }
+
+    public static class Snapshot {
+        private final long version;
+        private final WordleDictionary dictionary;
+        private final long sourceLastModified;
+        private final long sourceSize;
+        private final long loadMillis;
+
+        public Snapshot(long version, WordleDictionary dictionary, long sourceLastModified, long sourceSize,
+                        long loadMillis) {
+            this.version = version;
+            this.dictionary = dictionary;
+            this.sourceLastModified = sourceLastModified;
+            this.sourceSize = sourceSize;
+            this.loadMillis = loadMillis;
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public WordleDictionary getDictionary() {
+            return dictionary;
+        }
+
+        public long getSourceLastModified() {
+            return sourceLastModified;
+        }
+
+        public long getSourceSize() {
+            return sourceSize;
+        }
+
+        public long getLoadMillis() {
+            return loadMillis;
+        }
+    }
+}
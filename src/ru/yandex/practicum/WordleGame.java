@@ -4,7 +4,9 @@ import java.util.*;
 
 public class WordleGame {
     private final String answer;
+    private final int answerIndex;
     private int remainingSteps;
+    private int hintsUsed;
     private final WordleDictionary dictionary;
     private final List<String> attempts = new ArrayList<>();
     private final Set<Character> correctLetters = new HashSet<>();
@@ -15,6 +17,8 @@ public class WordleGame {
     public WordleGame(WordleDictionary dictionary) {
         this.dictionary = dictionary;
         this.answer = dictionary.getRandomWord();
+        // Позиция ответа в словаре вычисляется один раз, статистика использует её без поиска
+        this.answerIndex = dictionary.indexOf(answer);
         this.remainingSteps = 6;
 
         for (int i = 0; i < 5; i++) {
@@ -58,6 +62,7 @@ public class WordleGame {
             return null;
         }
 
+        hintsUsed++;
         Random random = new Random();
         return possibleWords.get(random.nextInt(possibleWords.size()));
     }
@@ -74,6 +79,10 @@ public class WordleGame {
         return answer;
     }
 
+    public int getAnswerIndex() {
+        return answerIndex;
+    }
+
     public int getRemainingSteps() {
         return remainingSteps;
     }
@@ -82,6 +91,14 @@ public class WordleGame {
         return Collections.unmodifiableList(attempts);
     }
 
+    public int getHintsUsed() {
+        return hintsUsed;
+    }
+
+    public WordleDictionary getDictionary() {
+        return dictionary;
+    }
+
     private void updateLetterInfo(String word) {
         String analysis = WordleDictionary.analyzeWord(word, answer);
 
@@ -0,0 +1,363 @@
+package ru.yandex.practicum;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.ref.WeakReference;
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+public class WordleStatistics {
+    public static final int MAX_ATTEMPTS = 6;
+
+    // Раскладка ячейки: число незавершенных записей, исходы (0 - проигрыш, 1..6 - победа с этой попытки),
+    // подсказки, затем пары (игры, победы) по позициям слов в словаре.
+    // Заголовок дополнен до 16 элементов, чтобы частые счетчики не делили кэш-линию со словами
+    private static final int IN_FLIGHT = 0;
+    private static final int OUTCOME_BASE = 1;
+    private static final int OUTCOMES = MAX_ATTEMPTS + 1;
+    private static final int HINTS_USED = OUTCOME_BASE + OUTCOMES;
+    private static final int GAMES_WITH_HINTS = HINTS_USED + 1;
+    private static final int ANSWER_BASE = 16;
+
+    // Как в LongAdder: поток пишет в ячейку по своему зонду и уходит в другую, если столкнулся с соседом
+    private static final int CELL_COUNT = cellCount(Runtime.getRuntime().availableProcessors());
+    private static final VarHandle CELL = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final ThreadLocal<int[]> PROBE =
+            ThreadLocal.withInitial(() -> new int[] {ThreadLocalRandom.current().nextInt() | 1});
+
+    // Блокировка только для переключения словаря и снимков, запись игр её не берет
+    private final Object switchLock = new Object();
+    private volatile Generation current;
+    // Прошлые версии словаря: их игры сопоставляются с текущей версией по слову
+    private volatile List<WeakReference<WordleDictionary>> retired = Collections.emptyList();
+
+    public WordleStatistics(WordleDictionary dictionary) {
+        this.current = new Generation(dictionary);
+    }
+
+    public void recordGame(WordleGame game) {
+        if (!game.isGameOver()) {
+            throw new IllegalStateException("Игра еще не окончена");
+        }
+        recordGame(game.getDictionary(), game.getAnswerIndex(), game.isWon(),
+                game.getAttempts().size(), game.getHintsUsed());
+    }
+
+    public void recordGame(WordleDictionary dictionary, int answerIndex, boolean won, int attempts, int hints) {
+        if (won && (attempts < 1 || attempts > MAX_ATTEMPTS)) {
+            throw new IllegalArgumentException("Некорректное число попыток: " + attempts);
+        }
+
+        int outcome = won ? attempts : 0;
+        while (true) {
+            Generation generation = current;
+            int index = answerIndex;
+            if (dictionary != generation.dictionary) {
+                if (!isRetired(dictionary)) {
+                    // Игра уже идет на новой версии словаря, а уведомление о перезагрузке еще не дошло
+                    switchDictionary(dictionary);
+                    continue;
+                }
+                index = index >= 0 ? generation.dictionary.indexOf(dictionary.getWords().get(index)) : -1;
+            }
+            if (tryRecord(generation, index, outcome, hints)) {
+                return;
+            }
+            // Версия сменилась во время записи, повторяем запись в новой
+        }
+    }
+
+    private boolean tryRecord(Generation generation, int index, int outcome, int hints) {
+        int[] probe = PROBE.get();
+        long[] cell = generation.cell(probe[0] & (CELL_COUNT - 1));
+
+        long pending = (long) CELL.getVolatile(cell, IN_FLIGHT);
+        if (!CELL.compareAndSet(cell, IN_FLIGHT, pending, pending + 1)) {
+            // Ячейку делит другой поток: следующую запись делаем в другой
+            probe[0] = advanceProbe(probe[0]);
+            CELL.getAndAdd(cell, IN_FLIGHT, 1L);
+        }
+        try {
+            if (current != generation) {
+                return false;
+            }
+            // Порядок записи согласован с порядком чтения в snapshot()
+            CELL.getAndAdd(cell, OUTCOME_BASE + outcome, 1L);
+            if (index >= 0) {
+                CELL.getAndAdd(cell, ANSWER_BASE + index * 2, 1L);
+                if (outcome > 0) {
+                    CELL.getAndAdd(cell, ANSWER_BASE + index * 2 + 1, 1L);
+                }
+            }
+            if (hints > 0) {
+                CELL.getAndAdd(cell, HINTS_USED, (long) hints);
+                CELL.getAndAdd(cell, GAMES_WITH_HINTS, 1L);
+            }
+            return true;
+        } finally {
+            CELL.getAndAdd(cell, IN_FLIGHT, -1L);
+        }
+    }
+
+    public void switchDictionary(WordleDictionary dictionary) {
+        synchronized (switchLock) {
+            Generation previous = current;
+            if (previous.dictionary == dictionary || isRetired(dictionary)) {
+                return;
+            }
+
+            List<String> previousWords = previous.dictionary.getWords();
+            int[] remap = new int[previousWords.size()];
+            for (int i = 0; i < remap.length; i++) {
+                remap[i] = dictionary.indexOf(previousWords.get(i));
+            }
+
+            // Новые записи сразу идут в новую версию. Записи, начатые раньше, дописываются в старую,
+            // поэтому перенос ждет, пока в каждой старой ячейке не останется незавершенных записей
+            Generation next = new Generation(dictionary);
+            current = next;
+            retire(previous.dictionary);
+
+            long[] base = new long[next.cellLength()];
+            merge(base, previous.base, remap);
+            for (int slot = 0; slot < CELL_COUNT; slot++) {
+                long[] cell = previous.cells.get(slot);
+                if (cell == null) {
+                    continue;
+                }
+                while ((long) CELL.getVolatile(cell, IN_FLIGHT) != 0) {
+                    Thread.onSpinWait();
+                }
+                merge(base, cell, remap);
+            }
+            next.base = base;
+        }
+    }
+
+    public Snapshot snapshot() {
+        synchronized (switchLock) {
+            Generation generation = current;
+            long[] total = generation.base.clone();
+            List<long[]> cells = new ArrayList<>();
+            for (int slot = 0; slot < CELL_COUNT; slot++) {
+                long[] cell = generation.cells.get(slot);
+                if (cell != null) {
+                    cells.add(cell);
+                }
+            }
+
+            // Запись идет без блокировок, поэтому снимок не является мгновенным срезом.
+            // Счетчики читаются в порядке, обратном порядку записи: если снимок видит позднюю часть записи,
+            // он видит и раннюю. Поэтому игр с подсказками не больше, чем игр, побед слова не больше,
+            // чем его игр, а игр по словам в сумме не больше общего числа игр
+            sumInto(total, cells, GAMES_WITH_HINTS);
+            sumInto(total, cells, HINTS_USED);
+            for (int i = ANSWER_BASE; i < total.length; i += 2) {
+                for (long[] cell : cells) {
+                    total[i + 1] += (long) CELL.getVolatile(cell, i + 1);
+                    total[i] += (long) CELL.getVolatile(cell, i);
+                }
+            }
+            for (int i = 0; i < OUTCOMES; i++) {
+                sumInto(total, cells, OUTCOME_BASE + i);
+            }
+            return new Snapshot(generation.dictionary.getWords(), total);
+        }
+    }
+
+    private static void sumInto(long[] total, List<long[]> cells, int index) {
+        for (long[] cell : cells) {
+            total[index] += (long) CELL.getVolatile(cell, index);
+        }
+    }
+
+    private static void merge(long[] target, long[] source, int[] remap) {
+        for (int i = OUTCOME_BASE; i < ANSWER_BASE; i++) {
+            target[i] += source[i];
+        }
+        for (int i = 0; i < remap.length; i++) {
+            int word = remap[i];
+            if (word >= 0) {
+                target[ANSWER_BASE + word * 2] += source[ANSWER_BASE + i * 2];
+                target[ANSWER_BASE + word * 2 + 1] += source[ANSWER_BASE + i * 2 + 1];
+            }
+        }
+    }
+
+    private boolean isRetired(WordleDictionary dictionary) {
+        for (WeakReference<WordleDictionary> reference : retired) {
+            if (reference.get() == dictionary) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void retire(WordleDictionary dictionary) {
+        // Собранные сборщиком мусора версии из списка убираются
+        List<WeakReference<WordleDictionary>> next = new ArrayList<>();
+        for (WeakReference<WordleDictionary> reference : retired) {
+            if (reference.get() != null) {
+                next.add(reference);
+            }
+        }
+        next.add(new WeakReference<>(dictionary));
+        retired = next;
+    }
+
+    private static int advanceProbe(int probe) {
+        probe ^= probe << 13;
+        probe ^= probe >>> 17;
+        probe ^= probe << 5;
+        return probe;
+    }
+
+    private static int cellCount(int processors) {
+        int count = 1;
+        while (count < processors * 2) {
+            count <<= 1;
+        }
+        return count;
+    }
+
+    private static class Generation {
+        private final WordleDictionary dictionary;
+        // Ячейки создаются при первой записи, поэтому без конкуренции снимок читает одну-две ячейки
+        private final AtomicReferenceArray<long[]> cells = new AtomicReferenceArray<>(CELL_COUNT);
+        // Счетчики, перенесенные из прошлых версий; читается и пишется под switchLock
+        private long[] base;
+
+        private Generation(WordleDictionary dictionary) {
+            this.dictionary = dictionary;
+            this.base = new long[cellLength()];
+        }
+
+        private int cellLength() {
+            return ANSWER_BASE + dictionary.size() * 2;
+        }
+
+        private long[] cell(int slot) {
+            long[] cell = cells.get(slot);
+            if (cell == null) {
+                long[] created = new long[cellLength()];
+                cell = cells.compareAndSet(slot, null, created) ? created : cells.get(slot);
+            }
+            return cell;
+        }
+    }
+
+    public static class Snapshot {
+        private static final Comparator<WordDifficulty> MORE_PLAYS_FIRST =
+                Comparator.comparingLong(WordDifficulty::getPlays).reversed();
+
+        // При равной доле побед выше слово с большим числом игр, затем по алфавиту
+        private static final Comparator<WordDifficulty> HARDEST_FIRST =
+                Comparator.comparingDouble(WordDifficulty::getSolveRate)
+                        .thenComparing(MORE_PLAYS_FIRST)
+                        .thenComparing(WordDifficulty::getWord);
+        private static final Comparator<WordDifficulty> EASIEST_FIRST =
+                Comparator.comparingDouble(WordDifficulty::getSolveRate).reversed()
+                        .thenComparing(MORE_PLAYS_FIRST)
+                        .thenComparing(WordDifficulty::getWord);
+
+        private final List<String> words;
+        private final long[] counters;
+
+        private Snapshot(List<String> words, long[] counters) {
+            this.words = words;
+            this.counters = counters;
+        }
+
+        public long getGamesPlayed() {
+            long total = 0;
+            for (int i = 0; i < OUTCOMES; i++) {
+                total += counters[OUTCOME_BASE + i];
+            }
+            return total;
+        }
+
+        public long getGamesWon() {
+            return getGamesPlayed() - getGamesLost();
+        }
+
+        public long getGamesLost() {
+            return counters[OUTCOME_BASE];
+        }
+
+        public long getWinsOnAttempt(int attempt) {
+            if (attempt < 1 || attempt > MAX_ATTEMPTS) {
+                throw new IllegalArgumentException("Некорректный номер попытки: " + attempt);
+            }
+            return counters[OUTCOME_BASE + attempt];
+        }
+
+        public long getHintsUsed() {
+            return counters[HINTS_USED];
+        }
+
+        public long getGamesWithHints() {
+            return counters[GAMES_WITH_HINTS];
+        }
+
+        public List<WordDifficulty> hardestWords(int limit, long minPlays) {
+            return topWords(limit, minPlays, HARDEST_FIRST);
+        }
+
+        public List<WordDifficulty> easiestWords(int limit, long minPlays) {
+            return topWords(limit, minPlays, EASIEST_FIRST);
+        }
+
+        private List<WordDifficulty> topWords(int limit, long minPlays, Comparator<WordDifficulty> rank) {
+            if (limit <= 0) {
+                return Collections.emptyList();
+            }
+
+            // Куча размера limit: в голове всегда худший из отобранных кандидатов
+            PriorityQueue<WordDifficulty> heap = new PriorityQueue<>(limit + 1, rank.reversed());
+
+            for (int i = 0; i < words.size(); i++) {
+                long plays = counters[ANSWER_BASE + i * 2];
+                if (plays == 0 || plays < minPlays) {
+                    continue;
+                }
+                heap.add(new WordDifficulty(words.get(i), plays, counters[ANSWER_BASE + i * 2 + 1]));
+                if (heap.size() > limit) {
+                    heap.poll();
+                }
+            }
+
+            List<WordDifficulty> result = new ArrayList<>(heap);
+            result.sort(rank);
+            return result;
+        }
+    }
+
+    public static class WordDifficulty {
+        private final String word;
+        private final long plays;
+        private final long wins;
+
+        public WordDifficulty(String word, long plays, long wins) {
+            this.word = word;
+            this.plays = plays;
+            this.wins = wins;
+        }
+
+        public String getWord() {
+            return word;
+        }
+
+        public long getPlays() {
+            return plays;
+        }
+
+        public long getWins() {
+            return wins;
+        }
+
+        public double getSolveRate() {
+            return plays == 0 ? 0 : (double) wins / plays;
+        }
+    }
+}
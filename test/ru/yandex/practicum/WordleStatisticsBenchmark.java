@@ -0,0 +1,65 @@
+package ru.yandex.practicum;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Замер пропускной способности записи статистики при 1..N потоках.
+// Запуск: java ru.yandex.practicum.WordleStatisticsBenchmark [словарь] [макс. потоков] [записей на поток]
+public class WordleStatisticsBenchmark {
+
+    public static void main(String[] args) throws IOException, InterruptedException {
+        String filename = args.length > 0 ? args[0] : "words_ru.txt";
+        int maxThreads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        int recordsPerThread = args.length > 2 ? Integer.parseInt(args[2]) : 2_000_000;
+
+        WordleDictionary dictionary = new WordleDictionaryLoader().loadDictionary(filename);
+        List<String> words = dictionary.getWords();
+        System.out.println("Слов в словаре: " + words.size());
+
+        // Прогрев JIT
+        run(dictionary, words, 1, recordsPerThread);
+
+        for (int threads = 1; threads <= maxThreads; threads++) {
+            long elapsed = run(dictionary, words, threads, recordsPerThread);
+            double perSecond = (double) threads * recordsPerThread / elapsed * 1_000_000_000L;
+            System.out.printf("потоков: %2d, записей/с: %,.0f%n", threads, perSecond);
+        }
+    }
+
+    private static long run(WordleDictionary dictionary, List<String> words, int threads, int recordsPerThread)
+            throws InterruptedException {
+        WordleStatistics statistics = new WordleStatistics(dictionary);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < recordsPerThread; i++) {
+                    int answerIndex = random.nextInt(words.size());
+                    int attempts = random.nextInt(WordleStatistics.MAX_ATTEMPTS) + 1;
+                    statistics.recordGame(dictionary, answerIndex, random.nextBoolean(), attempts, random.nextInt(2));
+                }
+                done.countDown();
+            }).start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsed = System.nanoTime() - begin;
+
+        if (statistics.snapshot().getGamesPlayed() != (long) threads * recordsPerThread) {
+            throw new IllegalStateException("Потеряны записи статистики");
+        }
+        return elapsed;
+    }
+}
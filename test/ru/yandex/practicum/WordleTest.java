@@ -9,6 +9,11 @@ import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -262,4 +267,433 @@ class WordleTest {
         assertEquals("+++++", result.getAnalysis());
         assertEquals("тест", result.getWord());
     }
+
+    @Test
+    void testDictionaryRegistryReload() throws Exception {
+        File dictFile = tempDir.resolve("reload_dict.txt").toFile();
+        try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+            writer.println("столи");
+        }
+
+        try (WordleDictionaryRegistry registry = new WordleDictionaryRegistry(dictFile.getAbsolutePath())) {
+            assertEquals(1, registry.current().getVersion());
+            WordleGame oldGame = registry.newGame();
+
+            try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+                writer.println("дверь");
+            }
+            WordleDictionaryRegistry.Snapshot snapshot = registry.reloadAsync().get();
+
+            assertEquals(2, snapshot.getVersion());
+            assertSame(snapshot, registry.current());
+            assertEquals(1, registry.getReloadCount());
+            assertTrue(registry.getDictionary().contains("дверь"));
+            assertFalse(registry.getDictionary().contains("столи"));
+
+            // Начатая игра доигрывается на своей версии словаря
+            assertEquals("столи", oldGame.getAnswer());
+            assertTrue(oldGame.makeAttempt("столи").isWin());
+            assertEquals("дверь", registry.newGame().getAnswer());
+        }
+    }
+
+    @Test
+    void testDictionaryRegistryReloadIfModified() throws Exception {
+        File dictFile = tempDir.resolve("modified_dict.txt").toFile();
+        try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+            writer.println("столи");
+        }
+
+        try (WordleDictionaryRegistry registry = new WordleDictionaryRegistry(dictFile.getAbsolutePath())) {
+            WordleDictionaryRegistry.Snapshot before = registry.current();
+
+            // Файл не менялся - перезагрузки нет
+            assertSame(before, registry.reloadIfModifiedAsync().get());
+            assertEquals(0, registry.getReloadCount());
+
+            // Перезапись в пределах точности отметки времени: время изменения остается прежним
+            try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+                writer.println("дверь");
+                writer.println("книга");
+            }
+            assertTrue(dictFile.setLastModified(before.getSourceLastModified()));
+
+            WordleDictionaryRegistry.Snapshot after = registry.reloadIfModifiedAsync().get();
+            assertEquals(2, after.getVersion());
+            assertEquals(1, registry.getReloadCount());
+            assertTrue(after.getDictionary().contains("дверь"));
+        }
+    }
+
+    @Test
+    void testDictionaryRegistryWatchingNotifiesListeners() throws Exception {
+        File dictFile = tempDir.resolve("watched_dict.txt").toFile();
+        try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+            writer.println("столи");
+        }
+
+        try (WordleDictionaryRegistry registry = new WordleDictionaryRegistry(dictFile.getAbsolutePath())) {
+            CompletableFuture<WordleDictionaryRegistry.Snapshot> reloaded = new CompletableFuture<>();
+            registry.addReloadListener(new WordleDictionaryRegistry.ReloadListener() {
+                @Override
+                public void onReload(WordleDictionaryRegistry.Snapshot snapshot) {
+                    reloaded.complete(snapshot);
+                }
+
+                @Override
+                public void onReloadFailed(Exception e, long elapsedMillis) {
+                    reloaded.completeExceptionally(e);
+                }
+            });
+            registry.startWatching(10, TimeUnit.MILLISECONDS);
+
+            long lastModified = registry.current().getSourceLastModified();
+            try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+                writer.println("дверь");
+                writer.println("книга");
+            }
+            assertTrue(dictFile.setLastModified(lastModified));
+
+            WordleDictionaryRegistry.Snapshot snapshot = reloaded.get(5, TimeUnit.SECONDS);
+            assertEquals(2, snapshot.getVersion());
+            assertSame(snapshot, registry.current());
+        }
+    }
+
+    @Test
+    void testDictionaryRegistryCountsRuntimeFailures() throws Exception {
+        File dictFile = tempDir.resolve("runtime_failure_dict.txt").toFile();
+        try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+            writer.println("столи");
+        }
+
+        AtomicBoolean failing = new AtomicBoolean();
+        WordleDictionaryLoader failingLoader = new WordleDictionaryLoader() {
+            @Override
+            public WordleDictionary loadDictionary(String filename) throws IOException {
+                if (failing.get()) {
+                    throw new IllegalStateException("Сбой загрузчика");
+                }
+                return super.loadDictionary(filename);
+            }
+        };
+
+        try (WordleDictionaryRegistry registry =
+                     new WordleDictionaryRegistry(dictFile.getAbsolutePath(), failingLoader)) {
+            WordleDictionaryRegistry.Snapshot before = registry.current();
+            failing.set(true);
+
+            assertThrows(ExecutionException.class, () -> registry.reloadAsync().get());
+            assertSame(before, registry.current());
+            assertEquals(1, registry.getFailedReloadCount());
+        }
+    }
+
+    @Test
+    void testDictionaryRegistryListenerFailureDoesNotFailReload() throws Exception {
+        File dictFile = tempDir.resolve("listener_failure_dict.txt").toFile();
+        try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+            writer.println("столи");
+        }
+
+        try (WordleDictionaryRegistry registry = new WordleDictionaryRegistry(dictFile.getAbsolutePath())) {
+            AtomicBoolean secondNotified = new AtomicBoolean();
+            registry.addReloadListener(new WordleDictionaryRegistry.ReloadListener() {
+                @Override
+                public void onReload(WordleDictionaryRegistry.Snapshot snapshot) {
+                    throw new IllegalStateException("Сбой слушателя");
+                }
+
+                @Override
+                public void onReloadFailed(Exception e, long elapsedMillis) {
+                }
+            });
+            registry.addReloadListener(new WordleDictionaryRegistry.ReloadListener() {
+                @Override
+                public void onReload(WordleDictionaryRegistry.Snapshot snapshot) {
+                    secondNotified.set(true);
+                }
+
+                @Override
+                public void onReloadFailed(Exception e, long elapsedMillis) {
+                }
+            });
+
+            WordleDictionaryRegistry.Snapshot snapshot = registry.reloadAsync().get();
+
+            assertEquals(2, snapshot.getVersion());
+            assertTrue(secondNotified.get());
+            assertEquals(1, registry.getReloadCount());
+            assertEquals(0, registry.getFailedReloadCount());
+            assertEquals(1, registry.getFailedListenerCount());
+        }
+    }
+
+    @Test
+    void testDictionaryRegistryReloadLatencyMetrics() throws Exception {
+        File dictFile = tempDir.resolve("latency_dict.txt").toFile();
+        try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+            writer.println("столи");
+        }
+
+        AtomicBoolean failing = new AtomicBoolean();
+        WordleDictionaryLoader slowLoader = new WordleDictionaryLoader() {
+            @Override
+            public WordleDictionary loadDictionary(String filename) throws IOException {
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                if (failing.get()) {
+                    throw new IOException("Сбой чтения");
+                }
+                return super.loadDictionary(filename);
+            }
+        };
+
+        try (WordleDictionaryRegistry registry =
+                     new WordleDictionaryRegistry(dictFile.getAbsolutePath(), slowLoader)) {
+            assertEquals(0, registry.getAverageReloadMillis());
+
+            WordleDictionaryRegistry.Snapshot snapshot = registry.reloadAsync().get();
+            assertTrue(registry.getLastReloadMillis() >= 20);
+            assertEquals(snapshot.getLoadMillis(), registry.getLastReloadMillis());
+            assertEquals(registry.getTotalReloadMillis(), registry.getAverageReloadMillis());
+
+            // Неудачная перезагрузка не влияет на время успешных
+            long totalBeforeFailure = registry.getTotalReloadMillis();
+            failing.set(true);
+            assertThrows(ExecutionException.class, () -> registry.reloadAsync().get());
+            assertEquals(totalBeforeFailure, registry.getTotalReloadMillis());
+            assertEquals(snapshot.getLoadMillis(), registry.getLastReloadMillis());
+            assertTrue(registry.getTotalFailedReloadMillis() >= 20);
+        }
+    }
+
+    @Test
+    void testDictionaryRegistryFailedReloadKeepsCurrentVersion() throws Exception {
+        File dictFile = tempDir.resolve("failed_reload_dict.txt").toFile();
+        try (PrintWriter writer = new PrintWriter(dictFile, StandardCharsets.UTF_8)) {
+            writer.println("столи");
+        }
+
+        try (WordleDictionaryRegistry registry = new WordleDictionaryRegistry(dictFile.getAbsolutePath())) {
+            WordleDictionaryRegistry.Snapshot before = registry.current();
+            assertTrue(dictFile.delete());
+
+            assertThrows(ExecutionException.class, () -> registry.reloadAsync().get());
+            assertSame(before, registry.current());
+            assertEquals(1, registry.getFailedReloadCount());
+        }
+    }
+
+    @Test
+    void testStatisticsAggregation() {
+        WordleStatistics statistics = new WordleStatistics(dictionary);
+
+        record(statistics, "столи", true, 1, 0);
+        record(statistics, "столи", true, 3, 2);
+        record(statistics, "дверь", false, 6, 1);
+
+        WordleStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(3, snapshot.getGamesPlayed());
+        assertEquals(2, snapshot.getGamesWon());
+        assertEquals(1, snapshot.getGamesLost());
+        assertEquals(1, snapshot.getWinsOnAttempt(1));
+        assertEquals(1, snapshot.getWinsOnAttempt(3));
+        assertEquals(0, snapshot.getWinsOnAttempt(6));
+        assertEquals(3, snapshot.getHintsUsed());
+        assertEquals(2, snapshot.getGamesWithHints());
+    }
+
+    @Test
+    void testStatisticsRecordsFinishedGame() throws WordleGame.WordleGameException {
+        WordleStatistics statistics = new WordleStatistics(dictionary);
+        WordleGame game = new WordleGame(dictionary);
+
+        assertThrows(IllegalStateException.class, () -> statistics.recordGame(game));
+
+        game.getHint();
+        game.makeAttempt(game.getAnswer());
+        statistics.recordGame(game);
+
+        WordleStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(1, snapshot.getWinsOnAttempt(1));
+        assertEquals(1, snapshot.getHintsUsed());
+        assertEquals(1, statistics.snapshot().easiestWords(1, 1).get(0).getPlays());
+    }
+
+    @Test
+    void testStatisticsWordDifficulty() {
+        WordleStatistics statistics = new WordleStatistics(dictionary);
+
+        record(statistics, "столи", true, 2, 0);
+        record(statistics, "столи", true, 4, 0);
+        record(statistics, "дверь", true, 5, 0);
+        record(statistics, "дверь", false, 6, 0);
+        record(statistics, "книга", false, 6, 0);
+        record(statistics, "книга", false, 6, 0);
+        record(statistics, "мышка", false, 6, 0);
+
+        List<WordleStatistics.WordDifficulty> hardest = statistics.snapshot().hardestWords(2, 2);
+        assertEquals(2, hardest.size());
+        assertEquals("книга", hardest.get(0).getWord());
+        assertEquals("дверь", hardest.get(1).getWord());
+        assertEquals(0.5, hardest.get(1).getSolveRate());
+
+        List<WordleStatistics.WordDifficulty> easiest = statistics.snapshot().easiestWords(5, 1);
+        assertEquals(4, easiest.size());
+        assertEquals("столи", easiest.get(0).getWord());
+        assertEquals(1.0, easiest.get(0).getSolveRate());
+    }
+
+    @Test
+    void testHintNotCountedWhenUnavailable() throws WordleGame.WordleGameException {
+        // После любой неверной попытки ограничения противоречат друг другу и подсказок не остается
+        WordleDictionary smallDictionary = new WordleDictionary(Arrays.asList("аабвд", "ббавг"));
+        WordleGame game = new WordleGame(smallDictionary);
+        String wrongWord = game.getAnswer().equals("аабвд") ? "ббавг" : "аабвд";
+
+        assertNotNull(game.getHint());
+        assertEquals(1, game.getHintsUsed());
+
+        game.makeAttempt(wrongWord);
+        assertNull(game.getHint());
+        assertEquals(1, game.getHintsUsed());
+    }
+
+    @Test
+    void testStatisticsTiesAreDeterministic() {
+        WordleStatistics statistics = new WordleStatistics(dictionary);
+
+        record(statistics, "мышка", false, 6, 0);
+        record(statistics, "книга", false, 6, 0);
+        record(statistics, "дверь", false, 6, 0);
+        record(statistics, "дверь", false, 6, 0);
+
+        List<WordleStatistics.WordDifficulty> hardest = statistics.snapshot().hardestWords(3, 1);
+        assertEquals("дверь", hardest.get(0).getWord());
+        assertEquals("книга", hardest.get(1).getWord());
+        assertEquals("мышка", hardest.get(2).getWord());
+    }
+
+    @Test
+    void testStatisticsRemapsOldGameAfterReload() throws WordleGame.WordleGameException {
+        WordleDictionary oldDictionary = new WordleDictionary(Arrays.asList("столи"));
+        WordleStatistics statistics = new WordleStatistics(oldDictionary);
+        WordleGame oldGame = new WordleGame(oldDictionary);
+
+        WordleDictionary reloaded = new WordleDictionary(Arrays.asList("новое", "столи"));
+        statistics.switchDictionary(reloaded);
+        record(statistics, reloaded, "новое", false, 6, 0);
+        record(statistics, reloaded, "новое", false, 6, 0);
+
+        // Игра, начатая до перезагрузки, учитывается по слову в новой версии
+        oldGame.makeAttempt("столи");
+        statistics.recordGame(oldGame);
+
+        WordleStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(3, snapshot.getGamesPlayed());
+        assertEquals("новое", snapshot.hardestWords(1, 2).get(0).getWord());
+        WordleStatistics.WordDifficulty easiest = snapshot.easiestWords(1, 1).get(0);
+        assertEquals("столи", easiest.getWord());
+        assertEquals(1, easiest.getPlays());
+        assertEquals(1, easiest.getWins());
+    }
+
+    @Test
+    void testStatisticsOldGameAnswerMissingAfterReload() throws WordleGame.WordleGameException {
+        WordleDictionary oldDictionary = new WordleDictionary(Arrays.asList("книга"));
+        WordleStatistics statistics = new WordleStatistics(oldDictionary);
+        WordleGame oldGame = new WordleGame(oldDictionary);
+
+        statistics.switchDictionary(new WordleDictionary(Arrays.asList("новое")));
+        oldGame.makeAttempt("книга");
+        statistics.recordGame(oldGame);
+
+        // Слова нет в новой версии - игра есть только в общих счетчиках
+        WordleStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(1, snapshot.getGamesPlayed());
+        assertEquals(1, snapshot.getWinsOnAttempt(1));
+        assertTrue(snapshot.easiestWords(10, 1).isEmpty());
+    }
+
+    @Test
+    void testStatisticsSwitchesToNewDictionaryOnRecord() {
+        WordleDictionary oldDictionary = new WordleDictionary(Arrays.asList("столи"));
+        WordleStatistics statistics = new WordleStatistics(oldDictionary);
+        record(statistics, oldDictionary, "столи", true, 2, 0);
+
+        // Игра на новой версии записана раньше, чем статистике сообщили о перезагрузке
+        WordleDictionary reloaded = new WordleDictionary(Arrays.asList("новое", "столи"));
+        record(statistics, reloaded, "новое", false, 6, 0);
+        statistics.switchDictionary(reloaded);
+        // Возврат к прошлой версии игнорируется
+        statistics.switchDictionary(oldDictionary);
+
+        WordleStatistics.Snapshot snapshot = statistics.snapshot();
+        assertEquals(2, snapshot.getGamesPlayed());
+        List<WordleStatistics.WordDifficulty> hardest = snapshot.hardestWords(2, 1);
+        assertEquals("новое", hardest.get(0).getWord());
+        assertEquals("столи", hardest.get(1).getWord());
+    }
+
+    @Test
+    void testStatisticsSnapshotIsConsistentUnderConcurrentRecording() throws InterruptedException {
+        WordleStatistics statistics = new WordleStatistics(dictionary);
+        int threads = 4;
+        int gamesPerThread = 20_000;
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < gamesPerThread; i++) {
+                    statistics.recordGame(dictionary, i % dictionary.size(), i % 2 == 0, 3, 1);
+                }
+                done.countDown();
+            }).start();
+        }
+
+        // Перезагрузка посреди записи: старые игры переносятся в новую версию без потерь
+        WordleDictionary reloaded = new WordleDictionary(dictionary.getWords());
+        boolean switched = false;
+        while (done.getCount() > 0) {
+            WordleStatistics.Snapshot snapshot = statistics.snapshot();
+            // Снимок не мгновенный, но поздняя часть записи не видна без ранней
+            assertTrue(snapshot.getGamesWithHints() <= snapshot.getHintsUsed());
+            assertTrue(snapshot.getHintsUsed() <= snapshot.getGamesPlayed());
+            long plays = 0;
+            for (WordleStatistics.WordDifficulty difficulty : snapshot.easiestWords(dictionary.size(), 1)) {
+                assertTrue(difficulty.getWins() <= difficulty.getPlays());
+                plays += difficulty.getPlays();
+            }
+            assertTrue(plays <= snapshot.getGamesPlayed());
+
+            if (!switched) {
+                statistics.switchDictionary(reloaded);
+                switched = true;
+            }
+        }
+        done.await();
+
+        WordleStatistics.Snapshot snapshot = statistics.snapshot();
+        long total = (long) threads * gamesPerThread;
+        assertEquals(total, snapshot.getGamesPlayed());
+        assertEquals(total, snapshot.getGamesWithHints());
+        long plays = 0;
+        for (WordleStatistics.WordDifficulty difficulty : snapshot.easiestWords(dictionary.size(), 1)) {
+            plays += difficulty.getPlays();
+        }
+        assertEquals(total, plays);
+    }
+
+    private void record(WordleStatistics statistics, String answer, boolean won, int attempts, int hints) {
+        record(statistics, dictionary, answer, won, attempts, hints);
+    }
+
+    private static void record(WordleStatistics statistics, WordleDictionary dictionary,
+                               String answer, boolean won, int attempts, int hints) {
+        statistics.recordGame(dictionary, dictionary.indexOf(answer), won, attempts, hints);
+    }
 }